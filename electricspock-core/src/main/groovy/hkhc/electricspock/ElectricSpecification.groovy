@@ -17,9 +17,11 @@
 
 package hkhc.electricspock
 
+import hkhc.electricspock.internal.ElectricSpock
 import org.junit.runner.RunWith
 import spock.lang.Specification
 
 @RunWith(ElectricSputnik)
+@ElectricSpock
 class ElectricSpecification extends Specification {
 }
\ No newline at end of file
@@ -18,11 +18,8 @@
 package hkhc.electricspock;
 
 import hkhc.electricspock.internal.ContainedRobolectricTestRunner;
-import hkhc.electricspock.internal.ElectricSpockInterceptor;
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import hkhc.electricspock.internal.SandboxRegistry;
+import hkhc.electricspock.internal.SpecInfoListeners;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.util.Optional;
@@ -32,33 +29,40 @@ import org.junit.runner.Runner;
 import org.junit.runner.manipulation.Filter;
 import org.junit.runner.manipulation.Filterable;
 import org.junit.runner.manipulation.NoTestsRemainException;
-import org.junit.runner.manipulation.Sortable;
-import org.junit.runner.manipulation.Sorter;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.model.InitializationError;
 import org.robolectric.internal.AndroidSandbox;
-import org.spockframework.runtime.model.SpecInfo;
 import spock.lang.Specification;
 import spock.lang.Title;
 
 /**
  * Created by herman on 27/12/2016. Test Runner
  */
-public class ElectricSputnik extends Runner implements Filterable, Sortable {
+public class ElectricSputnik extends Runner implements Filterable {
 
   private final AndroidSandbox sdkEnvironment;
 
   /* it is used to setup Robolectric infrastructure, and not used to run actual test cases */
   private final ContainedRobolectricTestRunner containedRunner;
 
-  /* Used to check if object of proper class is obtained from getSpec method */
-  private final Class<?> specInfoClass;
+  /* the spec class loaded under Robolectric sandbox */
+  private final Class<?> bootstrappedSpecClass;
+
+  /* bootstrapped classes and method handles of the sandbox, shared by all specs run in it */
+  private final SandboxRegistry sandboxRegistry;
 
   /* the real test runner to run test classes. It is enclosed by ElectricSputnik so that it is
   run within Robolectric interception
    */
   private final Runner junitPlatformRunner;
 
+  /* built on first request and kept until the spec is filtered. It is shared with every caller, and its children are
+  the nodes of JUnitPlatform's own description, so callers must not modify the tree */
+  private Description description = null;
+
+  /* whether ElectricSpockInterceptor has been registered to the SpecInfo of the spec */
+  private volatile boolean specRegistered = false;
+
   static {
     // this starts up the Poller SunPKCS11-Darwin thread early, outside of any Robolectric classloader
     new SecureRandom(String.valueOf(System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8));
@@ -74,117 +78,80 @@ public class ElectricSputnik extends Runner implements Filterable, Sortable {
     containedRunner = new ContainedRobolectricTestRunner();
     sdkEnvironment = containedRunner.getContainedSdkEnvironment();
 
-    specInfoClass = sdkEnvironment.bootstrappedClass(SpecInfo.class);
+    sandboxRegistry = SandboxRegistry.of(sdkEnvironment);
+
+    bootstrappedSpecClass = sdkEnvironment.bootstrappedClass(specClass);
 
     // Since we have bootstrappedClass we may properly initialize
-    junitPlatformRunner = createSputnik(specClass);
+    junitPlatformRunner = createSputnik();
 
-    registerSpec();
+    if (!specRegistered) {
+      throw new InitializationError(String.format(
+        "ElectricSpockInterceptor is not registered to '%s'. "
+          + "ElectricSputnik only runs specs extending ElectricSpecification",
+        specClass.getName()));
+    }
 
   }
 
   /**
-   * Sputnik is the test runner for Spock specification. This method Load the spec class and Sputnik class with Robolectric
-   * sandbox, so that Robolectric can intercept the Android API code. That's how we bridge Spock framework and Robolectric
-   * together.
-   *
-   * @param specClass the Specification class to be run under Sputnik
+   * Sputnik is the test runner for Spock specification. The runner is created with Robolectric's class loader as the
+   * context class loader, so that the test engines it loads, Spock included, are loaded under Robolectric sandbox like the
+   * spec class, and Robolectric can intercept the Android API code. That's how we bridge Spock framework and Robolectric
+   * together. The spec is discovered while the runner is created, and ElectricSpockExtension hands its SpecInfo over to
+   * registerSpec.
    */
-  private Runner createSputnik(Class<? extends Specification> specClass) {
+  private Runner createSputnik() {
+    Thread thread = Thread.currentThread();
+    ClassLoader contextClassLoader = thread.getContextClassLoader();
+    thread.setContextClassLoader(sdkEnvironment.getRobolectricClassLoader());
+    SpecInfoListeners.setListener(bootstrappedSpecClass, this::registerSpec);
+
     try {
-      return new JUnitPlatform(sdkEnvironment.bootstrappedClass(specClass));
-
-      /*
-      return (Runner) sdkEnvironment
-        .bootstrappedClass(JUnitPlatform.class)
-        .getConstructor(Class.class)
-        .newInstance(sdkEnvironment.bootstrappedClass(specClass));
-        */
+      return new JUnitPlatform(bootstrappedSpecClass);
     }
     catch (Exception e) {
       throw new RuntimeException(e);
     }
-  }
-
-  /**
-   * Register an interceptor to specInfo of every method in specification.
-   */
-  private void registerSpec() {
-    Constructor<?> interceptorConstructor = getInterceptorConstructor();
-
-    for (Method method : junitPlatformRunner.getClass().getDeclaredMethods()) {
-      Object specInfo = getSpec(method);
-
-      if (specInfo != null) {
-        try {
-          // ElectricSpockInterceptor register itself to SpecInfo on construction, no need to keep a ref here
-          interceptorConstructor.newInstance(specInfo, containedRunner);
-        }
-        catch (IllegalAccessException | InvocationTargetException | InstantiationException e) {
-          throw new RuntimeException(e);
-        }
-      }
+    finally {
+      SpecInfoListeners.removeListener(bootstrappedSpecClass);
+      thread.setContextClassLoader(contextClassLoader);
     }
   }
 
   /**
-   * Get the SpecInfo from Specification. However, the SpecInfo instance it return will be under Robolectric sandbox, so it
-   * cannot be casted directly to SpecInfo statically.
+   * Register an interceptor to the SpecInfo of the specification. It is called for every SpecInfo Spock builds for the
+   * spec, so that the rebuilt SpecInfo after filtering is intercepted as well.
    *
-   * @param method the getSpec method
-   * @return the SpecInfo object loaded under Robolectric sandbox
+   * @param specInfo the SpecInfo object loaded under Robolectric sandbox. It cannot be casted directly to SpecInfo
+   *                 statically.
    */
-  private Object getSpec(Method method) {
-    if (method.getName().equals("getSpec")) {
-      method.setAccessible(true);
-
-      try {
-        Object specInfo = method.invoke(junitPlatformRunner);
-        if (specInfo.getClass() != specInfoClass) {
-          throw new RuntimeException(String.format(
-            "Failed to obtain SpecInfo instance from getSpec method. Instance of '%s' is obtained",
-            specInfo.getClass().getName()));
-        }
-        return specInfo;
-      }
-      catch (IllegalAccessException | InvocationTargetException e) {
-        throw new RuntimeException(e);
-      }
-    }
-    else {
-      return null;
+  private void registerSpec(Object specInfo) {
+    if (specInfo.getClass() != sandboxRegistry.getSpecInfoClass()) {
+      throw new RuntimeException(String.format(
+        "Failed to obtain SpecInfo instance under Robolectric sandbox. Instance of '%s' is obtained",
+        specInfo.getClass().getName()));
     }
-  }
 
-  /**
-   * Get a sandboxed constructor of interceptor
-   */
-  private Constructor<?> getInterceptorConstructor() {
-    try {
-      return sdkEnvironment
-        .bootstrappedClass(ElectricSpockInterceptor.class)
-        .getConstructor(specInfoClass, ContainedRobolectricTestRunner.class);
-    }
-    catch (NoSuchMethodException e) {
-      // it should not happen in production code as the class
-      // ElectricSpockInterceptor is known
-      throw new RuntimeException(e);
-    }
+    // ElectricSpockInterceptor register itself to SpecInfo on construction, no need to keep a ref here
+    sandboxRegistry.newInterceptor(specInfo, containedRunner);
+    specRegistered = true;
   }
 
   private Optional<String> title(Class<?> testClass) {
-    for (Annotation annotation : testClass.getAnnotations()) {
-
-      if (annotation instanceof Title) {
-        return Optional.ofNullable(((Title) annotation).value());
-      }
-    }
-
-    return Optional.empty();
+    Title title = testClass.getAnnotation(Title.class);
+    return title == null ? Optional.empty() : Optional.ofNullable(title.value());
   }
 
   @Override
   public Description getDescription() {
+    if (description == null) {
+      description = createDescription();
+    }
+    return description;
+  }
+
+  private Description createDescription() {
     Description originalDesc = junitPlatformRunner.getDescription();
     Class<?> testClass = originalDesc.getTestClass();
 
@@ -192,12 +159,12 @@ public class ElectricSputnik extends Runner implements Filterable, Sortable {
       throw new RuntimeException("Unexpected null testClass");
     }
 
-    Description description = Description.createSuiteDescription(title(testClass).orElse(testClass.getName()));
+    Description suiteDescription = Description.createSuiteDescription(title(testClass).orElse(testClass.getName()));
     for (Description d : originalDesc.getChildren()) {
-      description.addChild(d);
+      suiteDescription.addChild(d);
     }
 
-    return description;
+    return suiteDescription;
   }
 
   @Override
@@ -207,11 +174,15 @@ public class ElectricSputnik extends Runner implements Filterable, Sortable {
 
   @Override
   public void filter(Filter filter) throws NoTestsRemainException {
-    ((Filterable) junitPlatformRunner).filter(filter);
-  }
+    // JUnitPlatform discovers the spec again when filtered, the rebuilt SpecInfo needs its own interceptor
+    SpecInfoListeners.setListener(bootstrappedSpecClass, this::registerSpec);
 
-  @Override
-  public void sort(Sorter sorter) {
-    ((Sortable) junitPlatformRunner).sort(sorter);
+    try {
+      ((Filterable) junitPlatformRunner).filter(filter);
+    }
+    finally {
+      SpecInfoListeners.removeListener(bootstrappedSpecClass);
+      description = null;
+    }
   }
 }
\ No newline at end of file
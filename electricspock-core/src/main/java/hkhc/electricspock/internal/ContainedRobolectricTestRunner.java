@@ -1,7 +1,10 @@
 package hkhc.electricspock.internal;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
 import org.junit.runners.model.FrameworkMethod;
@@ -15,7 +18,14 @@ import org.robolectric.internal.bytecode.InstrumentationConfiguration;
  */
 public class ContainedRobolectricTestRunner extends RobolectricTestRunner {
 
+  /* Sandboxes which have been configured already. Every contained runner takes its config from PlaceholderTest, so a
+  sandbox handed out by Robolectric's SandboxManager (which caches sandboxes by SDK and config) only needs its shadow
+  map and class handler built once per JVM, rather than on every call of getContainedSdkEnvironment
+   */
+  private static final Set<AndroidSandbox> configuredSandboxes = Collections.newSetFromMap(new WeakHashMap<>());
+
   private FrameworkMethod placeholderMethod = null;
+  private AndroidSandbox containedSandbox = null;
   private Method bootstrappedMethod = null;
 
   /**
@@ -45,47 +55,42 @@ public class ContainedRobolectricTestRunner extends RobolectricTestRunner {
 
   private Method getBootstrappedMethod() {
     if (bootstrappedMethod == null) {
-      bootstrappedMethod = createBootstrappedMethod();
+      // the placeholder test method, loaded under Robolectric's class loader
+      bootstrappedMethod = SandboxRegistry.of(getContainedSdkEnvironment()).getPlaceholderMethod();
     }
 
     return bootstrappedMethod;
   }
 
-  private Method getMethod(Class<?> clazz, String methodName) {
-    try {
-      return clazz.getMethod(methodName);
-    }
-    catch (NoSuchMethodException e) {
-      throw new RuntimeException(e);
-    }
-  }
-
-  private Method createBootstrappedMethod() {
-    FrameworkMethod placeholderMethod = getPlaceHolderMethod();
-    AndroidSandbox sdkEnvironment = getContainedSdkEnvironment();
-
-    // getTestClass().getJavaClass() should always be PlaceholderTest.class, load under Robolectric's class loader
-    Class<?> bootstrappedTestClass = sdkEnvironment.bootstrappedClass(getTestClass().getJavaClass());
-    return getMethod(bootstrappedTestClass, placeholderMethod.getMethod().getName());
-  }
-
   /**
-   * Override to add itself to doNotAcquireClass, so as to avoid classloader conflict
+   * Override to add itself and SpecInfoListeners to doNotAcquireClass, so as to avoid classloader conflict
    */
   @Override
   @NotNull
   protected InstrumentationConfiguration createClassLoaderConfig(final FrameworkMethod method) {
     return new InstrumentationConfiguration.Builder(super.createClassLoaderConfig(method))
       .doNotAcquireClass(getClass())
+      .doNotAcquireClass(ContainedRobolectricTestRunner.class)
+      .doNotAcquireClass(SpecInfoListeners.class)
       .build();
   }
 
   public AndroidSandbox getContainedSdkEnvironment() {
-    FrameworkMethod placeHolderMethod = getPlaceHolderMethod();
-    AndroidSandbox androidSandbox = getSandbox(placeHolderMethod);
-    // this loads in our shadows and configures our env.
-    configureSandbox(androidSandbox, placeHolderMethod);
-    return androidSandbox;
+    if (containedSandbox == null) {
+      FrameworkMethod placeHolderMethod = getPlaceHolderMethod();
+      AndroidSandbox androidSandbox = getSandbox(placeHolderMethod);
+
+      synchronized (configuredSandboxes) {
+        if (configuredSandboxes.add(androidSandbox)) {
+          // this loads in our shadows and configures our env.
+          configureSandbox(androidSandbox, placeHolderMethod);
+        }
+      }
+
+      containedSandbox = androidSandbox;
+    }
+
+    return containedSandbox;
   }
 
   public void containedBeforeTest() throws Throwable {
@@ -102,6 +107,8 @@ public class ContainedRobolectricTestRunner extends RobolectricTestRunner {
    */
   public static class PlaceholderTest {
 
+    static final String METHOD_NAME = "testPlaceholder";
+
     /* Just a placeholder, the actual content of the test method is not important */
     @Test
     public void testPlaceholder() {
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2016 Herman Cheung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package hkhc.electricspock.internal;
+
+import org.spockframework.runtime.extension.IAnnotationDrivenExtension;
+import org.spockframework.runtime.model.SpecInfo;
+
+/**
+ * Spock extension of ElectricSpecification which reports every spec extending it to SpecInfoListeners. For specs run by
+ * ElectricSputnik it is loaded under Robolectric sandbox together with Spock, and the runner registers
+ * ElectricSpockInterceptor to the SpecInfo it receives.
+ */
+public class ElectricSpockExtension implements IAnnotationDrivenExtension<ElectricSpock> {
+
+  @Override
+  public void visitSpecAnnotation(ElectricSpock annotation, SpecInfo spec) {
+    // the annotation is found on ElectricSpecification, the spec being run is at the bottom of the hierarchy
+    SpecInfo bottomSpec = spec.getBottomSpec();
+    SpecInfoListeners.specVisited(bottomSpec.getReflection(), bottomSpec);
+  }
+}
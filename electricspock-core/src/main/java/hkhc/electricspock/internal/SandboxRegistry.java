@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 Herman Cheung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package hkhc.electricspock.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.robolectric.internal.AndroidSandbox;
+import org.spockframework.runtime.model.SpecInfo;
+
+/**
+ * Classes and methods bootstrapped in a Robolectric sandbox. They are resolved once when the sandbox is first used, and
+ * shared by every spec run in the same sandbox afterwards.
+ */
+public class SandboxRegistry {
+
+  private static final Map<AndroidSandbox, SandboxRegistry> registries = new WeakHashMap<>();
+
+  /* SpecInfo class loaded under Robolectric sandbox */
+  private final Class<?> specInfoClass;
+
+  /* Constructor of the sandboxed ElectricSpockInterceptor, typed as (Object, ContainedRobolectricTestRunner)Object */
+  private final MethodHandle interceptorConstructor;
+
+  /* The placeholder test method loaded under Robolectric sandbox */
+  private final Method placeholderMethod;
+
+  private SandboxRegistry(AndroidSandbox sandbox) {
+    specInfoClass = sandbox.bootstrappedClass(SpecInfo.class);
+
+    try {
+      interceptorConstructor = MethodHandles.publicLookup()
+        .findConstructor(sandbox.bootstrappedClass(ElectricSpockInterceptor.class),
+          MethodType.methodType(void.class, specInfoClass, ContainedRobolectricTestRunner.class))
+        .asType(MethodType.methodType(Object.class, Object.class, ContainedRobolectricTestRunner.class));
+
+      placeholderMethod = sandbox.bootstrappedClass(ContainedRobolectricTestRunner.PlaceholderTest.class)
+        .getMethod(ContainedRobolectricTestRunner.PlaceholderTest.METHOD_NAME);
+    }
+    catch (NoSuchMethodException | IllegalAccessException e) {
+      // it should not happen in production code as the classes are known
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Get the registry of a sandbox, resolving its bootstrapped classes if the sandbox is used for the first time.
+   *
+   * @param sandbox the Robolectric sandbox
+   * @return the registry of the sandbox
+   */
+  public static SandboxRegistry of(AndroidSandbox sandbox) {
+    synchronized (registries) {
+      return registries.computeIfAbsent(sandbox, SandboxRegistry::new);
+    }
+  }
+
+  public Class<?> getSpecInfoClass() {
+    return specInfoClass;
+  }
+
+  public Method getPlaceholderMethod() {
+    return placeholderMethod;
+  }
+
+  /**
+   * Create a sandboxed ElectricSpockInterceptor, which registers itself to the given SpecInfo.
+   *
+   * @param specInfo the SpecInfo object loaded under Robolectric sandbox
+   * @param containedRunner the runner setting up Robolectric for the spec
+   * @return the interceptor loaded under Robolectric sandbox
+   */
+  public Object newInterceptor(Object specInfo, ContainedRobolectricTestRunner containedRunner) {
+    try {
+      return (Object) interceptorConstructor.invokeExact(specInfo, containedRunner);
+    }
+    catch (RuntimeException | Error e) {
+      throw e;
+    }
+    catch (Throwable e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
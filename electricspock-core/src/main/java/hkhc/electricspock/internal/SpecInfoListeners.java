@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 Herman Cheung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package hkhc.electricspock.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hands the SpecInfo built by Spock inside the Robolectric sandbox over to the runner outside of it. This class is not
+ * acquired by the sandbox, so both sides see the same listeners. Spock discovers a spec on the thread that asks for it,
+ * so listeners are kept per thread, and only for as long as the discovery runs.
+ */
+public class SpecInfoListeners {
+
+  /* keyed by the spec class loaded under Robolectric sandbox */
+  private static final ThreadLocal<Map<Class<?>, Consumer<Object>>> listeners = ThreadLocal.withInitial(HashMap::new);
+
+  private SpecInfoListeners() {
+  }
+
+  /**
+   * Set the listener to be called when Spock builds the SpecInfo of a spec class on the current thread. It shall be
+   * removed by removeListener once the discovery is done.
+   *
+   * @param specClass the spec class loaded under Robolectric sandbox
+   * @param listener receives the SpecInfo object loaded under Robolectric sandbox
+   */
+  public static void setListener(Class<?> specClass, Consumer<Object> listener) {
+    listeners.get().put(specClass, listener);
+  }
+
+  /**
+   * Remove the listener of a spec class set on the current thread.
+   *
+   * @param specClass the spec class loaded under Robolectric sandbox
+   */
+  public static void removeListener(Class<?> specClass) {
+    Map<Class<?>, Consumer<Object>> threadListeners = listeners.get();
+    threadListeners.remove(specClass);
+    if (threadListeners.isEmpty()) {
+      listeners.remove();
+    }
+  }
+
+  /**
+   * Pass the SpecInfo of a spec class to its listener on the current thread, if any.
+   *
+   * @param specClass the spec class loaded under Robolectric sandbox
+   * @param specInfo the SpecInfo object loaded under Robolectric sandbox
+   */
+  public static void specVisited(Class<?> specClass, Object specInfo) {
+    Consumer<Object> listener = listeners.get().get(specClass);
+    if (listener != null) {
+      listener.accept(specInfo);
+    }
+  }
+}
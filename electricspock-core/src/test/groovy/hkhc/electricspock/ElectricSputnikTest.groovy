@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017 Herman Cheung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package hkhc.electricspock
+
+import hkhc.electricspock.sample.BasicSpec
+import org.junit.Test
+import org.junit.runner.Description
+import org.junit.runner.manipulation.Filter
+import org.junit.runner.manipulation.Sorter
+
+import static com.google.common.truth.Truth.assertThat
+
+class ElectricSputnikTest {
+
+  @Test
+  void "it shall register the interceptor to the spec on creation"() {
+
+    // when
+    ElectricSputnik sputnik = new ElectricSputnik(BasicSpec)
+
+    // then
+    assertThat sputnik.specRegistered isTrue()
+
+  }
+
+  @Test
+  void "getDescription shall return the cached description"() {
+
+    // given
+    ElectricSputnik sputnik = new ElectricSputnik(BasicSpec)
+
+    // when
+    Description description = sputnik.description
+
+    // then
+    assertThat description.displayName isEqualTo BasicSpec.name
+    assertThat description.children.size() isEqualTo 1
+    assertThat sputnik.description isSameInstanceAs description
+
+  }
+
+  @Test
+  void "filter shall rebuild the description"() {
+
+    // given
+    ElectricSputnik sputnik = new ElectricSputnik(BasicSpec)
+    Description description = sputnik.description
+
+    // when
+    sputnik.filter(Filter.ALL)
+
+    // then
+    assertThat sputnik.description isNotSameInstanceAs description
+    assertThat sputnik.description.children.size() isEqualTo 1
+
+  }
+
+  @Test
+  void "sorting shall keep the cached description"() {
+
+    // given
+    ElectricSputnik sputnik = new ElectricSputnik(BasicSpec)
+    Description description = sputnik.description
+
+    // when
+    Sorter.NULL.apply(sputnik)
+
+    // then
+    assertThat sputnik.description isSameInstanceAs description
+
+  }
+
+}
@@ -23,8 +23,10 @@ import org.junit.Before
 import org.junit.Ignore
 import org.junit.Test
 import org.junit.runners.model.FrameworkMethod
+import org.junit.runners.model.InitializationError
 import org.robolectric.internal.AndroidSandbox
 import org.robolectric.internal.bytecode.InstrumentationConfiguration
+import org.robolectric.internal.bytecode.Sandbox
 
 import java.lang.reflect.Method
 
@@ -66,6 +68,24 @@ class ContainedRobolectricTestRunnerTest {
 
   }
 
+  @Test
+  void "getContainedSdkEnvironment shall configure a sandbox only once"() throws Exception {
+
+    // given
+    CountingRunner countingRunner = new CountingRunner()
+    countingRunner.getContainedSdkEnvironment()
+    int configureCount = CountingRunner.configureCount
+
+    // when
+    countingRunner.getContainedSdkEnvironment()
+    new CountingRunner().getContainedSdkEnvironment()
+
+    // then
+    assertThat configureCount isEqualTo 1
+    assertThat CountingRunner.configureCount isEqualTo configureCount
+
+  }
+
   @Test
   void "SdkEnvironment getBootstrap shall return a class object with different class loader"() {
 
@@ -90,6 +110,7 @@ class ContainedRobolectricTestRunnerTest {
 
     // then
     assertThat config.shouldAcquire(ContainedRobolectricTestRunner.name) isFalse()
+    assertThat config.shouldAcquire(SpecInfoListeners.name) isFalse()
 
   }
 
@@ -139,4 +160,23 @@ class ContainedRobolectricTestRunnerTest {
 
   }
 
-}
\ No newline at end of file
+  /**
+   * Counts how many times a sandbox is configured. It gets its own sandbox as it is excluded from instrumentation by its
+   * own class.
+   */
+  static class CountingRunner extends ContainedRobolectricTestRunner {
+
+    static int configureCount = 0
+
+    CountingRunner() throws InitializationError {
+      super()
+    }
+
+    @Override
+    protected void configureSandbox(Sandbox sandbox, FrameworkMethod method) {
+      configureCount++
+      super.configureSandbox(sandbox, method)
+    }
+  }
+
+}
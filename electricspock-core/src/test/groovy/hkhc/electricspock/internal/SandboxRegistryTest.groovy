@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017 Herman Cheung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package hkhc.electricspock.internal
+
+import hkhc.electricspock.sample.BasicSpec
+import org.junit.Before
+import org.junit.Test
+import org.robolectric.internal.AndroidSandbox
+import org.spockframework.runtime.model.SpecInfo
+
+import static com.google.common.truth.Truth.assertThat
+
+class SandboxRegistryTest {
+
+  ContainedRobolectricTestRunner runner = null
+  AndroidSandbox sdkEnv = null
+
+  @Before
+  void setup() {
+    // given
+    runner = new ContainedRobolectricTestRunner(BasicSpec)
+    sdkEnv = runner.getContainedSdkEnvironment()
+  }
+
+  @Test
+  void "registry shall be resolved once per sandbox"() {
+
+    // when
+    SandboxRegistry registry = SandboxRegistry.of(sdkEnv)
+
+    // then
+    assertThat SandboxRegistry.of(sdkEnv) isSameInstanceAs registry
+
+  }
+
+  @Test
+  void "SpecInfo class shall be loaded under the sandbox"() {
+
+    // when
+    Class c = SandboxRegistry.of(sdkEnv).specInfoClass
+
+    // then
+    assertThat c.getName() isEqualTo SpecInfo.getName()
+    assertThat c.getClassLoader() isNotEqualTo SpecInfo.getClassLoader()
+
+  }
+
+  @Test
+  void "placeholder method shall be loaded under the sandbox"() {
+
+    // when
+    def method = SandboxRegistry.of(sdkEnv).placeholderMethod
+
+    // then
+    assertThat method.name isEqualTo "testPlaceholder"
+    assertThat method.declaringClass isNotEqualTo ContainedRobolectricTestRunner.PlaceholderTest
+
+  }
+
+  @Test
+  void "interceptor shall be created under the sandbox and registered to the SpecInfo"() {
+
+    // given
+    SandboxRegistry registry = SandboxRegistry.of(sdkEnv)
+    def specInfo = registry.specInfoClass.getConstructor().newInstance()
+
+    // when
+    def interceptor = registry.newInterceptor(specInfo, runner)
+
+    // then
+    assertThat interceptor.getClass().name isEqualTo ElectricSpockInterceptor.name
+    assertThat interceptor.getClass().classLoader isNotEqualTo ElectricSpockInterceptor.classLoader
+    assertThat specInfo.interceptors.contains(interceptor) isTrue()
+
+  }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016 Herman Cheung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package hkhc.electricspock.sample
+
+import android.app.Application
+import hkhc.electricspock.ElectricSpecification
+import org.robolectric.RuntimeEnvironment
+import org.robolectric.annotation.Config
+import spock.lang.Shared
+import spock.lang.Stepwise
+
+/**
+ * Robolectric is set up once for the whole spec, so all features see the same Application.
+ */
+@Config(manifest = Config.NONE)
+@Stepwise
+class ApplicationLifecycleSpec extends ElectricSpecification {
+
+  @Shared
+  Application firstApplication = null
+
+  def "Application is created before the first feature"() {
+    when:
+    firstApplication = RuntimeEnvironment.getApplication()
+
+    then:
+    firstApplication != null
+  }
+
+  def "Application is not created again for the next feature"() {
+    expect:
+    RuntimeEnvironment.getApplication().is(firstApplication)
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016 Herman Cheung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package hkhc.electricspock.sample
+
+import android.content.Context
+import android.content.SharedPreferences
+import hkhc.electricspock.ElectricSpecification
+import org.robolectric.annotation.Config
+
+@Config(manifest = Config.NONE)
+class MockSpec extends ElectricSpecification {
+
+  def "Mock an Android class"() {
+    given:
+    Context context = Mock()
+
+    when:
+    def packageName = context.getPackageName()
+
+    then:
+    1 * context.getPackageName() >> "hkhc.testpackage"
+    packageName == "hkhc.testpackage"
+  }
+
+  def "Stub an Android interface"() {
+    given:
+    SharedPreferences preferences = Stub() {
+      getString("key", null) >> "value"
+    }
+
+    expect:
+    preferences.getString("key", null) == "value"
+  }
+}
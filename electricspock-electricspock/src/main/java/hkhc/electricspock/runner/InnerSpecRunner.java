@@ -19,10 +19,16 @@ package hkhc.electricspock.runner;
 
 import static hkhc.electricspock.runner.SpecUtils.getSpecClasses;
 
-import java.lang.annotation.Annotation;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.runner.Description;
 import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.InvalidOrderingException;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.manipulation.Orderer;
+import org.junit.runner.manipulation.Sorter;
 import org.junit.runners.Suite;
 import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.RunnerBuilder;
@@ -34,6 +40,11 @@ import spock.lang.Title;
 
 public class InnerSpecRunner extends Suite {
 
+  /* Descriptions are built once and kept until the children are filtered, sorted or ordered. They are shared with every
+  caller, so callers must not modify the trees */
+  private final Map<Runner, Description> childDescriptions = new HashMap<>();
+  private Description description = null;
+
   public InnerSpecRunner(Class<?> klass, RunnerBuilder builder) throws InitializationError {
     super(builder, klass, getSpecClasses(klass));
   }
@@ -60,47 +71,71 @@ public class InnerSpecRunner extends Suite {
 
   @Override
   public Description getDescription() {
-    Description d = super.getDescription();
-    dumpDescription(d);
-    return d;
+    if (description == null) {
+      description = super.getDescription();
+    }
+    return description;
   }
 
-  private void dumpDescription(Description d) {
-    dumpDescription(0, d);
+  @Override
+  public void filter(Filter filter) throws NoTestsRemainException {
+    try {
+      super.filter(filter);
+    }
+    finally {
+      invalidateDescriptions();
+    }
   }
 
-  private void dumpDescription(int level, Description d) {
-    for (Description c : d.getChildren()) {
-      dumpDescription(level + 1, c);
+  @Override
+  public void sort(Sorter sorter) {
+    try {
+      super.sort(sorter);
+    }
+    finally {
+      invalidateDescriptions();
     }
   }
 
+  @Override
+  public void order(Orderer orderer) throws InvalidOrderingException {
+    try {
+      super.order(orderer);
+    }
+    finally {
+      invalidateDescriptions();
+    }
+  }
+
+  private void invalidateDescriptions() {
+    description = null;
+    childDescriptions.clear();
+  }
+
   @Override
   protected Description describeChild(Runner child) {
+    Description d = childDescriptions.get(child);
+    if (d == null) {
+      d = createChildDescription(child);
+      childDescriptions.put(child, d);
+    }
+    return d;
+  }
+
+  private Description createChildDescription(Runner child) {
 
     Description d = super.describeChild(child);
     Class<?> testClass = d.getTestClass();
-    String title = null;
-    Annotation[] annotations = null;
-    if (testClass != null) {
-      annotations = testClass.getAnnotations();
-      for (Annotation a : annotations) {
-        if (a instanceof Title) {
-          title = ((Title) a).value() + " (" + testClass.getName() + ")";
-          break;
-        }
-      }
-    }
+    Title title = testClass == null ? null : testClass.getAnnotation(Title.class);
     if (title != null) {
-      Description newD = Description.createSuiteDescription(title, annotations);
+      Description newD = Description.createSuiteDescription(title.value() + " (" + testClass.getName() + ")",
+        testClass.getAnnotations());
       for (Description childD : d.getChildren()) {
         newD.addChild(Description.createTestDescription(newD.getTestClass(), childD.getDisplayName()));
       }
-      dumpDescription(newD);
       return newD;
     }
     else {
-      System.out.println("title is null");
       return d;
     }
   }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017 Herman Cheung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package hkhc.electricspock.runner
+
+import hkhc.electricspock.runner.testdata.Dummy
+import hkhc.electricspock.runner.testdata.JunitTestClass
+import hkhc.electricspock.runner.testdata.TitledJunitTestClass
+import org.junit.runner.Description
+import org.junit.runner.manipulation.Filter
+import org.junit.runner.manipulation.Sorter
+import spock.lang.Specification
+import spock.lang.Title
+
+@Title("descriptions of InnerSpecRunner")
+class DescriptionCacheSpec extends Specification {
+
+  def "Description is built once"() {
+    given:
+    def runner = new InnerSpecRunner(Dummy, [JunitTestClass] as Class<?>[])
+
+    expect:
+    runner.description.is(runner.description)
+  }
+
+  def "Description is rebuilt after filtering"() {
+    given:
+    def runner = new InnerSpecRunner(Dummy, [JunitTestClass] as Class<?>[])
+    Description before = runner.description
+
+    when:
+    runner.filter(Filter.matchMethodDescription(Description.createTestDescription(JunitTestClass, "testOne")))
+
+    then:
+    !runner.description.is(before)
+    runner.description.testCount() == 1
+  }
+
+  def "Titled child description is built once"() {
+    given:
+    def runner = new InnerSpecRunner(Dummy, [TitledJunitTestClass] as Class<?>[])
+    def child = runner.children[0]
+
+    when:
+    Description childDescription = runner.describeChild(child)
+
+    then:
+    childDescription.displayName == "titled test class (${TitledJunitTestClass.name})" as String
+    childDescription.children.size() == 2
+    runner.describeChild(child).is(childDescription)
+    runner.description.children[0].is(childDescription)
+  }
+
+  def "Titled child description is rebuilt after sorting"() {
+    given:
+    def runner = new InnerSpecRunner(Dummy, [TitledJunitTestClass] as Class<?>[])
+    def child = runner.children[0]
+    Description childDescription = runner.describeChild(child)
+    Description before = runner.description
+
+    when:
+    runner.sort(Sorter.NULL)
+
+    then:
+    !runner.describeChild(child).is(childDescription)
+    !runner.description.is(before)
+  }
+
+}
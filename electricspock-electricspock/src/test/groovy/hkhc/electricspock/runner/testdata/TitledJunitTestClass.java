@@ -0,0 +1,23 @@
+package hkhc.electricspock.runner.testdata;
+
+import org.junit.Test;
+import spock.lang.Title;
+
+/**
+ * As test data of hkhc.electricspock.runner.DescriptionCacheSpec
+ */
+
+@Title("titled test class")
+public class TitledJunitTestClass {
+
+  @Test
+  public void testOne() {
+
+  }
+
+  @Test
+  public void testTwo() {
+
+  }
+
+}